@@ -64,6 +64,31 @@
     }
 }
 
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// -- eg. ./gradlew benchmark -Pbenchmark.tagCounts=1000,100000,500000
+val benchmark by tasks.registering(Test::class) {
+    description = "Runs end-to-end latency & memory budgets against synthetic repositories"
+    group = "verification"
+
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+
+    maxHeapSize = "4g"
+
+    providers.gradlePropertiesPrefixedBy("benchmark.").get().forEach { (k, v) ->
+        systemProperty(k, v)
+    }
+}
+
 publishing {
     publications {
         create<MavenPublication>("mavenJava") {
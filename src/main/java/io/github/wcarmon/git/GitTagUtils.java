@@ -2,27 +2,57 @@
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.BatchRefUpdate;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.NullProgressMonitor;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefDatabase;
+import org.eclipse.jgit.lib.RefUpdate;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevTag;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.transport.BundleWriter;
 import org.eclipse.jgit.transport.FetchResult;
 import org.eclipse.jgit.transport.PushResult;
+import org.eclipse.jgit.transport.ReceiveCommand;
 import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.RemoteRefUpdate;
+import org.eclipse.jgit.transport.Transport;
+import org.eclipse.jgit.transport.TransportBundleStream;
+import org.eclipse.jgit.transport.URIish;
 import org.jetbrains.annotations.Nullable;
 
-/** Convenient api over some Git tag interaction */
+/**
+ * Convenient api over some Git tag interaction
+ *
+ * <p>Works with any {@link Repository} (file-backed or in-memory), wrap with {@link Git#wrap}
+ */
 public final class GitTagUtils {
 
+    private static final int BUNDLE_PIPE_BYTES = 1 << 20;
+    private static final long BUNDLE_WRITER_STOP_MILLIS = 10_000;
+
     /**
      * Semver version bump
      *
@@ -179,6 +209,29 @@ public static Collection<Ref> listTags(Git git) {
         }
     }
 
+    /**
+     * Useful for throwaway repos (tests, CI verification): no disk I/O, no cleanup.
+     * Populate with {@link #seedFromBundle} or {@link #seedFromRepository}.
+     *
+     * <p>GOTCHA: built on JGit's InMemoryRepository, an internal JGit API without compatibility
+     * guarantees (see {@link InMemoryRepositories})
+     *
+     * @param name identifies the repo in messages
+     * @return empty in-memory Repository, HEAD points to unborn "master"
+     */
+    public static Repository newInMemoryRepository(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+
+        try {
+            return InMemoryRepositories.create(name);
+
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to create in-memory repo: " + name, ex);
+        }
+    }
+
     /**
      * @param gitDir path to a directory named ".git"
      * @return open connection to a Repository.  Caller responsible for closing
@@ -200,6 +253,85 @@ public static Repository openRepository(Path gitDir) {
         }
     }
 
+    /**
+     * Delete tags selected by the policy, in one atomic ref transaction.
+     * When pushing, origin is updated first (atomically); local tags are deleted only if every
+     * remote delete succeeds.
+     * Equivalent: git tag -d v1.2.3-rc.1 v1.2.3-rc.2 ...
+     * Equivalent: git push --atomic origin :refs/tags/v1.2.3-rc.1 :refs/tags/v1.2.3-rc.2 ...
+     *
+     * @param git     previously configured Git repo connection
+     * @param policy  decides which tags to delete
+     * @param options dry run, push to origin, ...
+     * @return deleted tags & push results
+     */
+    public static TagPruneReport pruneTags(
+            Git git, TagRetentionPolicy policy, TagPruneOptions options) {
+        requireNonNull(git, "git is required and null.");
+        requireNonNull(policy, "policy is required and null.");
+        requireNonNull(options, "options is required and null.");
+
+        final Repository repo = git.getRepository();
+        final RefDatabase refDb = repo.getRefDatabase();
+
+        final Map<String, Ref> byName;
+        try {
+            final List<Ref> refs = refDb.getRefsByPrefix(Constants.R_TAGS);
+            byName = new HashMap<>(refs.size() * 2);
+            for (final Ref ref : refs) {
+                byName.put(Repository.shortenRefName(ref.getName()), ref);
+            }
+
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to list tags", ex);
+        }
+
+        final List<String> toDelete =
+                policy.selectDeletions(byName.keySet()).stream().sorted().toList();
+        final int retainedCount = byName.size() - toDelete.size();
+
+        if (options.dryRun() || toDelete.isEmpty()) {
+            return new TagPruneReport(toDelete, retainedCount, options.dryRun(), List.of());
+        }
+
+        // -- push first: when the remote rejects, local tags remain for a retry
+        final List<PushResult> pushResults =
+                options.pushDeletions() ? pushTagDeletions(git, toDelete) : List.of();
+
+        final BatchRefUpdate batch = refDb.newBatchUpdate();
+        batch.setAtomic(true);
+        for (final String tagName : toDelete) {
+            final Ref ref = byName.get(tagName);
+            batch.addCommand(
+                    new ReceiveCommand(
+                            ref.getObjectId(),
+                            ObjectId.zeroId(),
+                            ref.getName(),
+                            ReceiveCommand.Type.DELETE));
+        }
+
+        try (final RevWalk walk = new RevWalk(repo)) {
+            batch.execute(walk, NullProgressMonitor.INSTANCE);
+
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to delete tags", ex);
+        }
+
+        for (final ReceiveCommand cmd : batch.getCommands()) {
+            if (cmd.getResult() != ReceiveCommand.Result.OK) {
+                throw new RuntimeException(
+                        "Failed to delete tag: "
+                                + cmd.getRefName()
+                                + ", result="
+                                + cmd.getResult()
+                                + ", message="
+                                + cmd.getMessage());
+            }
+        }
+
+        return new TagPruneReport(toDelete, retainedCount, false, pushResults);
+    }
+
     /**
      * Equivalent: git push origin --tags
      * Push tags to origin.
@@ -221,6 +353,225 @@ public static Iterable<PushResult> pushTags(Git git) {
         }
     }
 
+    /**
+     * Equivalent: git fetch path/to/file.bundle '+refs/*:refs/*'
+     *
+     * @param target     any Repository (eg. {@link #newInMemoryRepository})
+     * @param bundleFile created by "git bundle create file.bundle --all" or similar
+     * @return {@link FetchResult}
+     */
+    public static FetchResult seedFromBundle(Repository target, Path bundleFile) {
+        requireNonNull(target, "target is required and null.");
+        requireNonNull(bundleFile, "bundleFile is required and null.");
+
+        final Path normalized = bundleFile.toAbsolutePath().normalize();
+        try (final InputStream in = new BufferedInputStream(Files.newInputStream(normalized))) {
+            return seed(target, in, new URIish(normalized.toUri().toURL()), null);
+
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to read bundle: " + normalized, ex);
+        }
+    }
+
+    /**
+     * Copy all refs and reachable objects from source into target.
+     *
+     * <p>The bundle is streamed from a writer thread through a pipe, so memory stays bounded by
+     * the pipe buffer rather than the size of the source pack.
+     * The whole bundle is always written, even when target already has every object.
+     *
+     * @param target any Repository (eg. {@link #newInMemoryRepository})
+     * @param source any Repository, unchanged
+     * @return {@link FetchResult}
+     */
+    public static FetchResult seedFromRepository(Repository target, Repository source) {
+        requireNonNull(target, "target is required and null.");
+        requireNonNull(source, "source is required and null.");
+
+        final RefDatabase refDb = source.getRefDatabase();
+        final BundleWriter writer = new BundleWriter(source);
+        final Ref head;
+
+        try {
+            for (final Ref ref : refDb.getRefsByPrefix(Constants.R_REFS)) {
+                if (ref.getObjectId() != null) {
+                    writer.include(ref);
+                }
+            }
+
+            head = refDb.exactRef(Constants.HEAD);
+            if (head != null && head.getObjectId() != null) {
+                writer.include(Constants.HEAD, head.getObjectId());
+            }
+
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to read refs: " + source.getIdentifier(), ex);
+        }
+
+        final AtomicReference<IOException> writeFailure = new AtomicReference<>();
+
+        try (final PipedInputStream in = new PipedInputStream(BUNDLE_PIPE_BYTES)) {
+            final PipedOutputStream pipe = new PipedOutputStream(in);
+
+            final Thread bundler =
+                    new Thread(
+                            () -> {
+                                try (pipe) {
+                                    writer.writeBundle(NullProgressMonitor.INSTANCE, pipe);
+
+                                } catch (IOException ex) {
+                                    writeFailure.set(ex);
+                                }
+                            },
+                            "git-utils-bundle-writer");
+            bundler.setDaemon(true);
+            bundler.start();
+
+            // -- transport closes its stream on return, the pipe must stay open until drained
+            final InputStream bundle =
+                    new FilterInputStream(in) {
+                        @Override
+                        public void close() {}
+                    };
+
+            final URIish sourceUri = new URIish().setPath(source.getIdentifier());
+
+            FetchResult out = null;
+            RuntimeException failure = null;
+            try {
+                out = seed(target, bundle, sourceUri, head);
+
+            } catch (RuntimeException ex) {
+                failure = ex;
+            }
+
+            // -- fetch can stop before the end of the bundle (eg. target already has the objects).
+            // -- GOTCHA: never fail the writer mid-pack, JGit retries a failed copy forever
+            in.transferTo(OutputStream.nullOutputStream());
+            bundler.join(BUNDLE_WRITER_STOP_MILLIS);
+
+            if (failure != null) {
+                if (writeFailure.get() != null) {
+                    failure.addSuppressed(writeFailure.get());
+                }
+                throw failure;
+            }
+
+            return out;
+
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to stream bundle: " + source.getIdentifier(), ex);
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while seeding repo", ex);
+        }
+    }
+
+    /**
+     * Point target HEAD like the bundle's HEAD.
+     * Bundles only record HEAD's commit, so without sourceHead, use a branch at the same commit.
+     *
+     * @param sourceHead when present, target HEAD links to the same branch or is detached too
+     */
+    private static void linkHead(Repository target, FetchResult result, @Nullable Ref sourceHead)
+            throws IOException {
+
+        final Ref advertisedHead = result.getAdvertisedRef(Constants.HEAD);
+        if (advertisedHead == null) {
+            return;
+        }
+
+        final String branch;
+        if (sourceHead != null) {
+            branch = sourceHead.isSymbolic() ? sourceHead.getTarget().getName() : null;
+
+        } else {
+            branch =
+                    result.getAdvertisedRefs().stream()
+                            .filter(r -> r.getName().startsWith(Constants.R_HEADS))
+                            .filter(r -> advertisedHead.getObjectId().equals(r.getObjectId()))
+                            .map(Ref::getName)
+                            .sorted()
+                            .findFirst()
+                            .orElse(null);
+        }
+
+        final RefUpdate.Result updateResult;
+        if (branch != null) {
+            updateResult = target.updateRef(Constants.HEAD).link(branch);
+
+        } else {
+            // -- detached
+            final RefUpdate update = target.updateRef(Constants.HEAD, true);
+            update.setNewObjectId(advertisedHead.getObjectId());
+            updateResult = update.forceUpdate();
+        }
+
+        switch (updateResult) {
+            case NEW, FORCED, NO_CHANGE, FAST_FORWARD -> {}
+            default -> throw new IOException("Failed to update HEAD: " + updateResult);
+        }
+    }
+
+    /**
+     * Atomic, so a rejection leaves origin unchanged.
+     * Tags already missing on origin count as deleted (eg. retry after a partial prune).
+     * Equivalent: git push --atomic origin :refs/tags/a :refs/tags/b ...
+     *
+     * @return results, only when every remote update succeeded
+     */
+    private static List<PushResult> pushTagDeletions(Git git, List<String> tagNames) {
+        final List<RefSpec> refSpecs =
+                tagNames.stream().map(t -> new RefSpec(":" + Constants.R_TAGS + t)).toList();
+
+        final List<PushResult> out = new ArrayList<>();
+        try {
+            git.push()
+                    .setAtomic(true)
+                    .setRemote("origin")
+                    .setRefSpecs(refSpecs)
+                    .call()
+                    .forEach(out::add);
+
+        } catch (Exception ex) {
+            throw new RuntimeException("Failed to push tag deletions", ex);
+        }
+
+        final List<String> failed = new ArrayList<>();
+        for (final PushResult result : out) {
+            for (final RemoteRefUpdate update : result.getRemoteUpdates()) {
+                switch (update.getStatus()) {
+                    case OK, NON_EXISTING -> {}
+                    default -> failed.add(update.getRemoteName() + "=" + update.getStatus());
+                }
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            throw new RuntimeException(
+                    "Failed to push tag deletions, local tags unchanged: " + failed);
+        }
+
+        return out;
+    }
+
+    private static FetchResult seed(
+            Repository target, InputStream bundle, URIish uri, @Nullable Ref sourceHead) {
+
+        try (final Transport transport = new TransportBundleStream(target, uri, bundle)) {
+            final FetchResult out =
+                    transport.fetch(
+                            NullProgressMonitor.INSTANCE, List.of(new RefSpec("+refs/*:refs/*")));
+
+            linkHead(target, out, sourceHead);
+            return out;
+
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to seed repo from: " + uri, ex);
+        }
+    }
+
     private static boolean tagNameMatches(Ref ref, String tagName) {
         requireNonNull(ref, "ref is required and null.");
         if (tagName == null || tagName.isBlank()) {
@@ -0,0 +1,36 @@
+package io.github.wcarmon.git;
+
+import java.io.IOException;
+
+import org.eclipse.jgit.internal.storage.dfs.DfsRepositoryDescription;
+import org.eclipse.jgit.internal.storage.dfs.InMemoryRepository;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.util.FS;
+
+/**
+ * Only place which touches JGit's in-memory (DFS) repository.
+ *
+ * <p>GOTCHA: InMemoryRepository lives in "org.eclipse.jgit.internal", which has no compatibility
+ * guarantee across JGit releases. Keep such imports here, so a JGit upgrade only breaks this class
+ * (and GitTagUtilsTest#testNewInMemoryRepository).
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {}
+
+    /**
+     * @param name identifies the repo in messages, validated by {@link
+     *             GitTagUtils#newInMemoryRepository}
+     * @return empty in-memory Repository, HEAD points to unborn "master"
+     */
+    static Repository create(String name) throws IOException {
+        // -- FS lets fetch/push reach remotes on the local filesystem
+        final Repository out =
+                new InMemoryRepository.Builder()
+                        .setRepositoryDescription(new DfsRepositoryDescription(name))
+                        .setFS(FS.DETECTED)
+                        .build();
+        out.create(true);
+        return out;
+    }
+}
@@ -21,7 +21,8 @@ public record SemVer(
         int patch,
         String preReleaseLabel,
         String buildMetadata,
-        boolean includeVPrefix) {
+        boolean includeVPrefix)
+        implements Comparable<SemVer> {
 
     private static final Pattern LABEL_PATTERN = Pattern.compile("^[0-9A-Za-z.]+$");
     private static final int MAX_BUILD_META_LEN = 48;
@@ -63,6 +64,35 @@ public record SemVer(
                     "buildMetadata must contain only letters, numbers, and periods: "
                             + buildMetadata);
         }
+
+        // -- See https://semver.org/#spec-item-9
+        if (!preReleaseLabel.isBlank()) {
+            for (final String identifier : preReleaseLabel.split("\\.", -1)) {
+                if (identifier.isEmpty()) {
+                    throw new IllegalArgumentException(
+                            "preReleaseLabel must not contain empty identifiers: "
+                                    + preReleaseLabel);
+                }
+
+                if (identifier.length() > 1
+                        && identifier.charAt(0) == '0'
+                        && isNumeric(identifier)) {
+                    throw new IllegalArgumentException(
+                            "preReleaseLabel numeric identifiers must not have leading zeros: "
+                                    + preReleaseLabel);
+                }
+            }
+        }
+
+        // -- See https://semver.org/#spec-item-10
+        if (!buildMetadata.isBlank()) {
+            for (final String identifier : buildMetadata.split("\\.", -1)) {
+                if (identifier.isEmpty()) {
+                    throw new IllegalArgumentException(
+                            "buildMetadata must not contain empty identifiers: " + buildMetadata);
+                }
+            }
+        }
     }
 
     private SemVer(Builder builder) {
@@ -120,6 +150,58 @@ public static SemVer parse(String raw) {
         return new SemVer(major, minor, patch, preReleaseLabel, buildMetadata, includeVPrefix);
     }
 
+    /**
+     * Precedence, See https://semver.org/#spec-item-11
+     *
+     * <p>GOTCHA: inconsistent with equals, buildMetadata and "v" prefix are ignored
+     *
+     * @param other version to compare against
+     * @return negative when this has lower precedence than other
+     */
+    @Override
+    public int compareTo(SemVer other) {
+        requireNonNull(other, "other is required and null.");
+
+        int out = Integer.compare(major, other.major);
+        if (out != 0) {
+            return out;
+        }
+
+        out = Integer.compare(minor, other.minor);
+        if (out != 0) {
+            return out;
+        }
+
+        out = Integer.compare(patch, other.patch);
+        if (out != 0) {
+            return out;
+        }
+
+        // -- a pre-release has lower precedence than the associated normal version
+        if (!isPreRelease() || !other.isPreRelease()) {
+            return Boolean.compare(other.isPreRelease(), isPreRelease());
+        }
+
+        final String[] mine = preReleaseLabel.split("\\.");
+        final String[] theirs = other.preReleaseLabel.split("\\.");
+
+        for (int i = 0; i < Math.min(mine.length, theirs.length); i++) {
+            out = compareIdentifiers(mine[i], theirs[i]);
+            if (out != 0) {
+                return out;
+            }
+        }
+
+        return Integer.compare(mine.length, theirs.length);
+    }
+
+    /**
+     * @return true when there is a preReleaseLabel (eg. "1.2.3-rc.4")
+     */
+    public boolean isPreRelease() {
+        return !preReleaseLabel.isBlank();
+    }
+
     @Override
     public String toString() {
         final StringBuilder out = new StringBuilder(MAX_LEN);
@@ -186,6 +268,42 @@ public SemVer withPatchInc(int amount) {
         return new SemVer(major, minor, patch + amount, "", "", includeVPrefix);
     }
 
+    /**
+     * Numeric identifiers compare numerically and sort before alphanumeric identifiers
+     *
+     * @return negative when a has lower precedence than b
+     */
+    private static int compareIdentifiers(String a, String b) {
+        final boolean aNumeric = isNumeric(a);
+        final boolean bNumeric = isNumeric(b);
+
+        if (aNumeric && bNumeric) {
+            // -- no leading zeros (see constructor), so longer means larger, no overflow
+            final int out = Integer.compare(a.length(), b.length());
+            return out != 0 ? out : a.compareTo(b);
+        }
+
+        if (aNumeric || bNumeric) {
+            return aNumeric ? -1 : 1;
+        }
+
+        return a.compareTo(b);
+    }
+
+    private static boolean isNumeric(String identifier) {
+        if (identifier.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < identifier.length(); i++) {
+            if (!Character.isDigit(identifier.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     public static final class Builder {
 
         private String buildMetadata;
@@ -0,0 +1,41 @@
+package io.github.wcarmon.git;
+
+/**
+ * How {@link GitTagUtils#pruneTags} applies the deletions selected by a {@link
+ * TagRetentionPolicy}.
+ *
+ * @param dryRun        when true, only report what would be deleted
+ * @param pushDeletions when true, also delete from origin in a single push
+ */
+public record TagPruneOptions(boolean dryRun, boolean pushDeletions) {
+
+    private TagPruneOptions(Builder builder) {
+        this(builder.dryRun, builder.pushDeletions);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private boolean dryRun;
+        private boolean pushDeletions;
+
+        private Builder() {}
+
+        public TagPruneOptions build() {
+            return new TagPruneOptions(this);
+        }
+
+        public Builder dryRun(boolean val) {
+            dryRun = val;
+            return this;
+        }
+
+        public Builder pushDeletions(boolean val) {
+            pushDeletions = val;
+            return this;
+        }
+    }
+}
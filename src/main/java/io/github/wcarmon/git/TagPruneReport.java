@@ -0,0 +1,31 @@
+package io.github.wcarmon.git;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import org.eclipse.jgit.transport.PushResult;
+
+/**
+ * @param deletedTags   short tag names, sorted; when dryRun, the tags which would be deleted
+ * @param retainedCount number of tags left untouched
+ * @param dryRun        true when nothing was deleted locally or remotely
+ * @param pushResults   empty unless deletions were pushed
+ */
+public record TagPruneReport(
+        List<String> deletedTags,
+        int retainedCount,
+        boolean dryRun,
+        List<PushResult> pushResults) {
+
+    public TagPruneReport {
+        requireNonNull(deletedTags, "deletedTags is required and null.");
+        requireNonNull(pushResults, "pushResults is required and null.");
+        if (retainedCount < 0) {
+            throw new IllegalArgumentException("retainedCount must be >= 0");
+        }
+
+        deletedTags = List.copyOf(deletedTags);
+        pushResults = List.copyOf(pushResults);
+    }
+}
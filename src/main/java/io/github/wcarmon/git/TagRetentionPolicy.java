@@ -0,0 +1,123 @@
+package io.github.wcarmon.git;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Decides which pre-release tags (eg. "1.2.3-rc.4") to delete.
+ *
+ * <p>Release tags and tags which are not {@link SemVer} are always retained.
+ *
+ * @param keepLastPreReleasesPerMinor retain only the highest N pre-releases (by {@link
+ *                                    SemVer} precedence) for each major.minor, {@link
+ *                                    #UNLIMITED} to disable
+ * @param dropPreReleasesOlderThan    optional, delete pre-releases with lower precedence than
+ *                                    this (eg. "2.0.0" drops "1.9.0-rc.1" and "2.0.0-rc.1")
+ */
+public record TagRetentionPolicy(
+        int keepLastPreReleasesPerMinor, @Nullable SemVer dropPreReleasesOlderThan) {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    public TagRetentionPolicy {
+        if (keepLastPreReleasesPerMinor < 0) {
+            throw new IllegalArgumentException("keepLastPreReleasesPerMinor must be >= 0");
+        }
+    }
+
+    private TagRetentionPolicy(Builder builder) {
+        this(builder.keepLastPreReleasesPerMinor, builder.dropPreReleasesOlderThan);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Single pass over the tags, keeps at most N candidates per major.minor in memory.
+     *
+     * @param tagNames short tag names (eg. "v1.2.3-rc.4", not "refs/tags/v1.2.3-rc.4")
+     * @return tags to delete, unordered
+     */
+    public List<String> selectDeletions(Collection<String> tagNames) {
+        requireNonNull(tagNames, "tagNames is required and null.");
+
+        final List<String> out = new ArrayList<>();
+        final Map<Long, PriorityQueue<Candidate>> newestByMinor = new HashMap<>();
+
+        for (final String tagName : tagNames) {
+            final SemVer version = parseOrNull(tagName);
+            if (version == null || !version.isPreRelease()) {
+                continue;
+            }
+
+            if (dropPreReleasesOlderThan != null
+                    && version.compareTo(dropPreReleasesOlderThan) < 0) {
+                out.add(tagName);
+                continue;
+            }
+
+            if (keepLastPreReleasesPerMinor == UNLIMITED) {
+                continue;
+            }
+
+            final long key = ((long) version.major() << 32) | version.minor();
+
+            // -- min-heap, head is the lowest precedence retained so far
+            final PriorityQueue<Candidate> newest =
+                    newestByMinor.computeIfAbsent(
+                            key,
+                            k -> new PriorityQueue<>(Comparator.comparing(Candidate::version)));
+
+            newest.add(new Candidate(version, tagName));
+            if (newest.size() > keepLastPreReleasesPerMinor) {
+                out.add(newest.poll().tagName());
+            }
+        }
+
+        return out;
+    }
+
+    @Nullable
+    private static SemVer parseOrNull(String tagName) {
+        try {
+            return SemVer.parse(tagName);
+
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private record Candidate(SemVer version, String tagName) {}
+
+    public static final class Builder {
+
+        private SemVer dropPreReleasesOlderThan;
+        private int keepLastPreReleasesPerMinor = UNLIMITED;
+
+        private Builder() {}
+
+        public TagRetentionPolicy build() {
+            return new TagRetentionPolicy(this);
+        }
+
+        public Builder dropPreReleasesOlderThan(SemVer val) {
+            dropPreReleasesOlderThan = val;
+            return this;
+        }
+
+        public Builder keepLastPreReleasesPerMinor(int val) {
+            keepLastPreReleasesPerMinor = val;
+            return this;
+        }
+    }
+}
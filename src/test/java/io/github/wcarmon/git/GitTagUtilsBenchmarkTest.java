@@ -0,0 +1,356 @@
+package io.github.wcarmon.git;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.transport.PushResult;
+import org.eclipse.jgit.transport.RemoteRefUpdate;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * End-to-end benchmarks for {@link GitTagUtils} against {@link SyntheticRepoFixture} repositories.
+ *
+ * <p>Excluded from "test", run with: ./gradlew benchmark
+ *
+ * <p>Scale with: ./gradlew benchmark -Pbenchmark.tagCounts=1000,100000,500000
+ *
+ * <p>Other knobs: benchmark.commitCount, benchmark.annotatedRatio, benchmark.refStorage
+ * (packed,loose), benchmark.iterations
+ *
+ * <p>Each operation has a {@link Budget} linear in tag count. Latency and memory are medians of
+ * the measured iterations. Memory is heap allocated by all threads while the operation runs,
+ * including JGit's local transport threads (garbage included, retained or not). Budgets are ~3x
+ * the baseline recorded in readme.md: they fail on scaling regressions (eg. quadratic work per
+ * tag), not on machine noise.
+ */
+@Tag("benchmark")
+class GitTagUtilsBenchmarkTest {
+
+    private static final Budget CREATE_TAG_BUDGET =
+            new Budget(Duration.ofMillis(100), Duration.ofNanos(5_000), mib(32), 3 * 1024);
+
+    private static final Budget FETCH_TAGS_BUDGET =
+            new Budget(Duration.ofMillis(2_000), Duration.ofNanos(500_000), mib(64), 100 * 1024);
+
+    /**
+     * GOTCHA: JGit's RefDirectory copies its loose ref list each time it peels a loose ref, so
+     * serving a fetch from loose refs allocates quadratically. Sized for up to ~30k tags, use
+     * packed refs beyond that.
+     */
+    private static final Budget FETCH_TAGS_LOOSE_ORIGIN_BUDGET =
+            new Budget(Duration.ofMillis(2_000), Duration.ofNanos(500_000), mib(64), 320 * 1024);
+
+    private static final Budget GET_TAG_BUDGET =
+            new Budget(Duration.ofMillis(100), Duration.ofNanos(25_000), mib(32), 5 * 1024);
+
+    private static final Budget LIST_TAGS_BUDGET =
+            new Budget(Duration.ofMillis(100), Duration.ofNanos(20_000), mib(32), 5 * 1024);
+
+    private static final Budget PUSH_TAGS_BUDGET =
+            new Budget(Duration.ofMillis(2_000), Duration.ofNanos(2_000_000), mib(64), 512 * 1024);
+
+    private static final int WARMUP_ITERATIONS = 1;
+
+    // -- fixtures are expensive at scale, share them across operations
+    private static final Map<SyntheticRepoFixture.Spec, Path> FIXTURES = new HashMap<>();
+
+    @TempDir static Path tempDir;
+
+    static Stream<SyntheticRepoFixture.Spec> specs() {
+        final int commitCount = Integer.getInteger("benchmark.commitCount", 1_000);
+        final double annotatedRatio =
+                Double.parseDouble(System.getProperty("benchmark.annotatedRatio", "0.5"));
+
+        final List<Boolean> packed =
+                Arrays.stream(System.getProperty("benchmark.refStorage", "packed,loose").split(","))
+                        .map(String::strip)
+                        .map(s -> s.equals("packed"))
+                        .distinct()
+                        .toList();
+
+        return Arrays.stream(System.getProperty("benchmark.tagCounts", "1000,10000").split(","))
+                .map(String::strip)
+                .map(Integer::parseInt)
+                .flatMap(
+                        tagCount ->
+                                packed.stream()
+                                        .map(
+                                                p ->
+                                                        new SyntheticRepoFixture.Spec(
+                                                                commitCount,
+                                                                tagCount,
+                                                                annotatedRatio,
+                                                                p)));
+    }
+
+    /**
+     * @return bare repo shaped by spec, with "origin" at {@link #originOf}
+     */
+    private static Path fixture(SyntheticRepoFixture.Spec spec) {
+        return FIXTURES.computeIfAbsent(
+                spec,
+                s ->
+                        SyntheticRepoFixture.create(
+                                tempDir.resolve(baseName(s) + ".git"), s, originOf(s)));
+    }
+
+    private static String baseName(SyntheticRepoFixture.Spec spec) {
+        return "fixture-" + spec.tagCount() + (spec.packedRefs() ? "-packed" : "-loose");
+    }
+
+    private static Path originOf(SyntheticRepoFixture.Spec spec) {
+        return tempDir.resolve(baseName(spec) + "-origin.git");
+    }
+
+    private static long mib(long n) {
+        return n * 1024 * 1024;
+    }
+
+    private static Git open(Path gitDir) {
+        try {
+            return Git.open(gitDir.toFile());
+
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to open: " + gitDir, ex);
+        }
+    }
+
+    /**
+     * Median latency & allocation over the measured iterations.
+     * Measurements are published to the test report, with the test that produced them.
+     *
+     * @param setup runs before each iteration, not measured
+     * @param op    measured
+     */
+    @SuppressWarnings("try") // -- ctx is only closed, T.close may throw InterruptedException
+    private static <T extends AutoCloseable> void assertWithinBudget(
+            TestReporter reporter,
+            String operation,
+            SyntheticRepoFixture.Spec spec,
+            Budget budget,
+            Callable<T> setup,
+            Consumer<T> op)
+            throws Exception {
+
+        final int iterations = Integer.getInteger("benchmark.iterations", 5);
+        if (iterations < 1) {
+            throw new IllegalArgumentException("benchmark.iterations must be >= 1");
+        }
+
+        final List<Long> nanos = new ArrayList<>(iterations);
+        final List<Long> allocations = new ArrayList<>(iterations);
+
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(
+                threads.isThreadAllocatedMemorySupported(),
+                "JVM cannot measure allocated bytes");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARMUP_ITERATIONS + iterations; i++) {
+            try (final T ctx = setup.call()) {
+                // -- total, not per thread: includes transport threads which end during op
+                final long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+                final long start = System.nanoTime();
+                op.accept(ctx);
+                final long elapsed = System.nanoTime() - start;
+                final long allocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore;
+
+                if (i >= WARMUP_ITERATIONS) {
+                    nanos.add(elapsed);
+                    allocations.add(allocated);
+                }
+            }
+        }
+
+        final Duration median = Duration.ofNanos(median(nanos));
+        final long allocatedBytes = median(allocations);
+        final Duration latencyBudget = budget.latencyFor(spec.tagCount());
+        final long memoryBudget = budget.bytesFor(spec.tagCount());
+
+        final String summary =
+                String.format(
+                        "benchmark op=%s tags=%d packed=%s annotatedRatio=%.2f"
+                                + " medianMs=%d budgetMs=%d allocatedMiB=%d budgetMiB=%d",
+                        operation,
+                        spec.tagCount(),
+                        spec.packedRefs(),
+                        spec.annotatedRatio(),
+                        median.toMillis(),
+                        latencyBudget.toMillis(),
+                        allocatedBytes / mib(1),
+                        memoryBudget / mib(1));
+
+        final Map<String, String> entry = new LinkedHashMap<>();
+        entry.put("benchmark.op", operation);
+        entry.put("benchmark.tags", String.valueOf(spec.tagCount()));
+        entry.put("benchmark.packedRefs", String.valueOf(spec.packedRefs()));
+        entry.put("benchmark.annotatedRatio", String.valueOf(spec.annotatedRatio()));
+        entry.put("benchmark.medianMs", String.valueOf(median.toMillis()));
+        entry.put("benchmark.budgetMs", String.valueOf(latencyBudget.toMillis()));
+        entry.put("benchmark.allocatedMiB", String.valueOf(allocatedBytes / mib(1)));
+        entry.put("benchmark.budgetMiB", String.valueOf(memoryBudget / mib(1)));
+        reporter.publishEntry(entry);
+
+        assertTrue(median.compareTo(latencyBudget) <= 0, "Latency budget exceeded: " + summary);
+        assertTrue(allocatedBytes <= memoryBudget, "Memory budget exceeded: " + summary);
+    }
+
+    private static long median(List<Long> values) {
+        return values.stream().sorted().toList().get(values.size() / 2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("specs")
+    void testCreateLightWeightTag(SyntheticRepoFixture.Spec spec, TestReporter reporter)
+            throws Exception {
+        final Path gitDir = fixture(spec);
+        final int[] counter = {0};
+
+        assertWithinBudget(
+                reporter,
+                "createLightWeightTag",
+                spec,
+                CREATE_TAG_BUDGET,
+                () -> new NewTag(open(gitDir), "v999999.0." + counter[0]++),
+                ctx ->
+                        assertNotNull(
+                                GitTagUtils.createLightWeightTag(
+                                        ctx.git(), ctx.name(), "benchmark")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("specs")
+    void testFetchTags(SyntheticRepoFixture.Spec spec, TestReporter reporter)
+            throws Exception {
+        final Path origin = fixture(spec);
+        final Path local = tempDir.resolve("fetch-local.git");
+
+        assertWithinBudget(
+                reporter,
+                "fetchTags",
+                spec,
+                spec.packedRefs() ? FETCH_TAGS_BUDGET : FETCH_TAGS_LOOSE_ORIGIN_BUDGET,
+                () -> open(SyntheticRepoFixture.recreateEmpty(local, origin)),
+                git ->
+                        assertEquals(
+                                spec.tagCount(),
+                                GitTagUtils.fetchTags(git).getTrackingRefUpdates().size()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("specs")
+    void testGetTag(SyntheticRepoFixture.Spec spec, TestReporter reporter)
+            throws Exception {
+        int last = spec.tagCount() - 1;
+        while (last >= 0 && !SyntheticRepoFixture.isAnnotated(last, spec.annotatedRatio())) {
+            last--;
+        }
+        assumeTrue(last >= 0, "getTag requires at least one annotated tag");
+
+        // -- getTag loads every tag before filtering, so which annotated tag doesn't matter
+        final String tagName = SyntheticRepoFixture.tagName(last);
+        final Path gitDir = fixture(spec);
+
+        assertWithinBudget(
+                reporter,
+                "getTag",
+                spec,
+                GET_TAG_BUDGET,
+                () -> open(gitDir),
+                git -> assertNotNull(GitTagUtils.getTag(git, tagName)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("specs")
+    void testListTags(SyntheticRepoFixture.Spec spec, TestReporter reporter)
+            throws Exception {
+        final Path gitDir = fixture(spec);
+
+        assertWithinBudget(
+                reporter,
+                "listTags",
+                spec,
+                LIST_TAGS_BUDGET,
+                () -> open(gitDir),
+                git -> assertEquals(spec.tagCount(), GitTagUtils.listTags(git).size()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("specs")
+    void testPushTags(SyntheticRepoFixture.Spec spec, TestReporter reporter)
+            throws Exception {
+        final Path gitDir = fixture(spec);
+        final Path origin = originOf(spec);
+
+        assertWithinBudget(
+                reporter,
+                "pushTags",
+                spec,
+                PUSH_TAGS_BUDGET,
+                () -> {
+                    SyntheticRepoFixture.recreateEmpty(origin, null);
+                    return open(gitDir);
+                },
+                git -> {
+                    for (final PushResult result : GitTagUtils.pushTags(git)) {
+                        for (final RemoteRefUpdate update : result.getRemoteUpdates()) {
+                            assertEquals(RemoteRefUpdate.Status.OK, update.getStatus());
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Latency and heap allocation allowed for one operation: base + (perTag * tagCount)
+     *
+     * @param baseLatency   fixed cost (eg. opening refs, transport setup)
+     * @param latencyPerTag marginal cost per tag
+     * @param baseBytes     fixed allocation
+     * @param bytesPerTag   marginal allocation per tag
+     */
+    record Budget(Duration baseLatency, Duration latencyPerTag, long baseBytes, long bytesPerTag) {
+
+        long bytesFor(int tagCount) {
+            return baseBytes + bytesPerTag * tagCount;
+        }
+
+        Duration latencyFor(int tagCount) {
+            return baseLatency.plus(latencyPerTag.multipliedBy(tagCount));
+        }
+    }
+
+    /** Removes the created tag after each iteration, so the fixture keeps its shape */
+    private record NewTag(Git git, String name) implements AutoCloseable {
+
+        @Override
+        public void close() throws GitAPIException {
+            try (git) {
+                git.tagDelete().setTags(name).call();
+            }
+        }
+    }
+}
@@ -4,13 +4,87 @@
 import static io.github.wcarmon.git.VersionIncrementType.MINOR;
 import static io.github.wcarmon.git.VersionIncrementType.PATCH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.transport.BundleWriter;
+import org.eclipse.jgit.transport.PushResult;
+import org.eclipse.jgit.transport.RemoteRefUpdate;
+import org.eclipse.jgit.transport.URIish;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
+/** Repository tests run against each {@link Backend} */
 class GitTagUtilsTest {
 
+    private static final SyntheticRepoFixture.Spec SPEC =
+            new SyntheticRepoFixture.Spec(5, 20, 0.5, true);
+
+    @TempDir Path tempDir;
+
+    private static Set<String> tagNames(Repository repo) {
+        return GitTagUtils.listTags(Git.wrap(repo)).stream()
+                .map(Ref::getName)
+                .map(Repository::shortenRefName)
+                .collect(Collectors.toSet());
+    }
+
+    private static void assertPushed(Iterable<PushResult> results) {
+        for (final PushResult result : results) {
+            for (final RemoteRefUpdate update : result.getRemoteUpdates()) {
+                assertEquals(RemoteRefUpdate.Status.OK, update.getStatus(), update.toString());
+            }
+        }
+    }
+
+    private Repository newBareFileRepository(String name) throws Exception {
+        final Repository out =
+                new FileRepositoryBuilder()
+                        .setGitDir(tempDir.resolve(name + ".git").toFile())
+                        .setBare()
+                        .build();
+        out.create(true);
+        return out;
+    }
+
+    /**
+     * @return empty repo, HEAD points to an unborn branch
+     */
+    private Repository newRepository(Backend backend, String name) throws Exception {
+        return switch (backend) {
+            case FILE -> newBareFileRepository(name);
+            case IN_MEMORY -> GitTagUtils.newInMemoryRepository(name);
+        };
+    }
+
+    private static void setOrigin(Repository repo, Path origin) throws Exception {
+        Git.wrap(repo)
+                .remoteAdd()
+                .setName("origin")
+                .setUri(new URIish(origin.toAbsolutePath().toString()))
+                .call();
+    }
+
     @Test
     void testBumpVersion() {
 
@@ -51,4 +125,284 @@ void testBumpVersion() {
                     "Failed on patch version bump: input = '" + entry.getKey() + "'");
         }
     }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testCreateAndGetTag(Backend backend) throws Exception {
+        try (final Repository repo = newRepository(backend, "create")) {
+            SyntheticRepoFixture.populate(repo, SPEC);
+            final Git git = Git.wrap(repo);
+
+            final Ref created =
+                    GitTagUtils.createLightWeightTag(git, SemVer.parse("v9.0.0"), "ship it");
+            assertNotNull(created);
+
+            assertEquals(SPEC.tagCount() + 1, GitTagUtils.listTags(git).size());
+
+            final AnnotatedTag tag = GitTagUtils.getTag(git, "v9.0.0");
+            assertNotNull(tag);
+            assertEquals("v9.0.0", tag.shortName());
+            assertEquals("ship it", tag.shortMessage());
+
+            assertNull(GitTagUtils.getTag(git, "v9.9.9"));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testFetchAndPushTags(Backend backend) throws Exception {
+        final Path source = tempDir.resolve("source.git");
+        final Path destination = tempDir.resolve("destination.git");
+        SyntheticRepoFixture.create(source, SPEC, null);
+        SyntheticRepoFixture.recreateEmpty(destination, null);
+
+        try (final Repository repo = newRepository(backend, "local")) {
+            setOrigin(repo, source);
+            GitTagUtils.fetchTags(Git.wrap(repo));
+            assertEquals(SPEC.tagCount(), tagNames(repo).size());
+
+            Git.wrap(repo)
+                    .remoteSetUrl()
+                    .setRemoteName("origin")
+                    .setRemoteUri(new URIish(destination.toString()))
+                    .call();
+            assertPushed(GitTagUtils.pushTags(Git.wrap(repo)));
+        }
+
+        try (final Repository remote = GitTagUtils.openRepository(destination)) {
+            assertEquals(SPEC.tagCount(), tagNames(remote).size());
+        }
+    }
+
+    @Test
+    void testNewInMemoryRepository() throws Exception {
+
+        // -- pins the JGit internal API behind InMemoryRepositories
+        try (final Repository repo = GitTagUtils.newInMemoryRepository("pinned")) {
+            assertNull(repo.getDirectory());
+            assertNotNull(repo.getFS());
+            assertEquals(Constants.R_HEADS + Constants.MASTER, repo.getFullBranch());
+            assertNull(repo.resolve(Constants.HEAD));
+            assertTrue(tagNames(repo).isEmpty());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testPruneTags(Backend backend) throws Exception {
+        final Path origin = tempDir.resolve("origin.git");
+        SyntheticRepoFixture.recreateEmpty(origin, null);
+
+        try (final Repository repo = newRepository(backend, "prune")) {
+            SyntheticRepoFixture.populate(repo, SPEC);
+            setOrigin(repo, origin);
+            final Git git = Git.wrap(repo);
+
+            for (final String tagName : List.of("v8.0.0-rc.1", "v8.0.0-rc.2", "v8.0.0-rc.3")) {
+                GitTagUtils.createLightWeightTag(git, tagName, "candidate");
+            }
+            assertPushed(GitTagUtils.pushTags(git));
+
+            final TagRetentionPolicy policy =
+                    TagRetentionPolicy.builder().keepLastPreReleasesPerMinor(1).build();
+
+            final TagPruneReport dryRun =
+                    GitTagUtils.pruneTags(
+                            git,
+                            policy,
+                            TagPruneOptions.builder().dryRun(true).pushDeletions(true).build());
+            assertTrue(dryRun.dryRun());
+            assertEquals(List.of("v8.0.0-rc.1", "v8.0.0-rc.2"), dryRun.deletedTags());
+            assertEquals(SPEC.tagCount() + 3, tagNames(repo).size());
+
+            final TagPruneReport report =
+                    GitTagUtils.pruneTags(
+                            git, policy, TagPruneOptions.builder().pushDeletions(true).build());
+            assertEquals(dryRun.deletedTags(), report.deletedTags());
+            assertEquals(SPEC.tagCount() + 1, report.retainedCount());
+            assertPushed(report.pushResults());
+
+            final Set<String> remaining = tagNames(repo);
+            assertEquals(SPEC.tagCount() + 1, remaining.size());
+            assertTrue(remaining.contains("v8.0.0-rc.3"));
+        }
+
+        try (final Repository remote = GitTagUtils.openRepository(origin)) {
+            assertEquals(SPEC.tagCount() + 1, tagNames(remote).size());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testPruneTagsAfterPartialRemoteDelete(Backend backend) throws Exception {
+        final Path origin = tempDir.resolve("origin.git");
+        SyntheticRepoFixture.recreateEmpty(origin, null);
+
+        try (final Repository repo = newRepository(backend, "prune-retry")) {
+            SyntheticRepoFixture.populate(repo, SPEC);
+            setOrigin(repo, origin);
+            final Git git = Git.wrap(repo);
+
+            for (final String tagName : List.of("v8.0.0-rc.1", "v8.0.0-rc.2")) {
+                GitTagUtils.createLightWeightTag(git, tagName, "candidate");
+            }
+            assertPushed(GitTagUtils.pushTags(git));
+
+            // -- eg. earlier prune deleted on origin, then failed locally
+            try (final Repository remote = GitTagUtils.openRepository(origin)) {
+                Git.wrap(remote).tagDelete().setTags("v8.0.0-rc.1").call();
+            }
+
+            // -- never pushed
+            GitTagUtils.createLightWeightTag(git, "v8.0.0-rc.3", "local only");
+
+            final TagPruneReport report =
+                    GitTagUtils.pruneTags(
+                            git,
+                            TagRetentionPolicy.builder().keepLastPreReleasesPerMinor(0).build(),
+                            TagPruneOptions.builder().pushDeletions(true).build());
+
+            assertEquals(
+                    List.of("v8.0.0-rc.1", "v8.0.0-rc.2", "v8.0.0-rc.3"), report.deletedTags());
+            assertEquals(SPEC.tagCount(), tagNames(repo).size());
+        }
+
+        try (final Repository remote = GitTagUtils.openRepository(origin)) {
+            assertEquals(SPEC.tagCount(), tagNames(remote).size());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testPruneTagsKeepsLocalTagsWhenPushFails(Backend backend) throws Exception {
+        final Path origin = tempDir.resolve("origin.git");
+        SyntheticRepoFixture.recreateEmpty(origin, null);
+
+        try (final Repository repo = newRepository(backend, "prune-rejected")) {
+            SyntheticRepoFixture.populate(repo, SPEC);
+            setOrigin(repo, origin);
+            final Git git = Git.wrap(repo);
+
+            for (final String tagName : List.of("v8.0.0-rc.1", "v8.0.0-rc.2", "v8.0.0-rc.3")) {
+                GitTagUtils.createLightWeightTag(git, tagName, "candidate");
+            }
+            assertPushed(GitTagUtils.pushTags(git));
+
+            // -- GOTCHA: JGit's receive.denyDeletes only protects branches, a held lock rejects
+            Files.createFile(origin.resolve(Constants.R_TAGS + "v8.0.0-rc.2.lock"));
+
+            final TagRetentionPolicy policy =
+                    TagRetentionPolicy.builder().keepLastPreReleasesPerMinor(0).build();
+
+            final RuntimeException ex =
+                    assertThrows(
+                            RuntimeException.class,
+                            () ->
+                                    GitTagUtils.pruneTags(
+                                            git,
+                                            policy,
+                                            TagPruneOptions.builder().pushDeletions(true).build()),
+                            "push rejected by origin must fail");
+            assertTrue(ex.getMessage().contains("refs/tags/v8.0.0-rc.2"), ex.getMessage());
+
+            assertEquals(SPEC.tagCount() + 3, tagNames(repo).size());
+        }
+
+        // -- atomic push, no partial delete on origin
+        try (final Repository remote = GitTagUtils.openRepository(origin)) {
+            assertEquals(SPEC.tagCount() + 3, tagNames(remote).size());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testSeedFromBundle(Backend backend) throws Exception {
+        final Path bundleFile = tempDir.resolve("seed.bundle");
+
+        try (final Repository source = newRepository(backend, "bundle-source")) {
+            SyntheticRepoFixture.populate(source, SPEC);
+
+            final BundleWriter writer = new BundleWriter(source);
+            for (final Ref ref : source.getRefDatabase().getRefsByPrefix(Constants.R_REFS)) {
+                writer.include(ref);
+            }
+            writer.include(Constants.HEAD, source.resolve(Constants.HEAD));
+
+            try (final OutputStream out = Files.newOutputStream(bundleFile)) {
+                writer.writeBundle(NullProgressMonitor.INSTANCE, out);
+            }
+        }
+
+        try (final Repository target = newRepository(backend, "bundle-target")) {
+            GitTagUtils.seedFromBundle(target, bundleFile);
+
+            assertEquals(SPEC.tagCount(), tagNames(target).size());
+            assertNotNull(target.resolve(Constants.HEAD));
+            assertNotNull(
+                    GitTagUtils.getTag(
+                            Git.wrap(target), SyntheticRepoFixture.tagName(SPEC.tagCount() - 1)));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testSeedFromRepository(Backend backend) throws Exception {
+        try (final Repository source = newRepository(backend, "source");
+                final Repository target = GitTagUtils.newInMemoryRepository("target")) {
+            SyntheticRepoFixture.populate(source, SPEC);
+
+            GitTagUtils.seedFromRepository(target, source);
+
+            assertEquals(tagNames(source), tagNames(target));
+            assertEquals(source.getFullBranch(), target.getFullBranch());
+            assertEquals(source.resolve(Constants.HEAD), target.resolve(Constants.HEAD));
+
+            // -- seeded repo is independent of source
+            GitTagUtils.createLightWeightTag(Git.wrap(target), "v9.0.0", "only in target");
+            assertEquals(SPEC.tagCount(), tagNames(source).size());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testSeedFromRepositoryDetachedHead(Backend backend) throws Exception {
+        try (final Repository source = newRepository(backend, "source");
+                final Repository target = GitTagUtils.newInMemoryRepository("target")) {
+            SyntheticRepoFixture.populate(source, SPEC);
+
+            // -- same commit as the branch, a bundle alone can't tell them apart
+            final RefUpdate detach = source.updateRef(Constants.HEAD, true);
+            detach.setNewObjectId(source.resolve(Constants.HEAD));
+            detach.forceUpdate();
+            assertFalse(source.exactRef(Constants.HEAD).isSymbolic());
+
+            GitTagUtils.seedFromRepository(target, source);
+
+            assertFalse(target.exactRef(Constants.HEAD).isSymbolic());
+            assertEquals(source.resolve(Constants.HEAD), target.resolve(Constants.HEAD));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    void testSeedFromRepositoryTwice(Backend backend) throws Exception {
+        try (final Repository source = newRepository(backend, "source");
+                final Repository target = GitTagUtils.newInMemoryRepository("target")) {
+            SyntheticRepoFixture.populate(source, SPEC);
+
+            GitTagUtils.seedFromRepository(target, source);
+
+            // -- target already has every object, fetch stops before reading the pack
+            GitTagUtils.seedFromRepository(target, source);
+
+            assertEquals(tagNames(source), tagNames(target));
+            assertEquals(source.resolve(Constants.HEAD), target.resolve(Constants.HEAD));
+        }
+    }
+
+    /** Where a repository stores objects & refs */
+    enum Backend {
+        FILE,
+        IN_MEMORY
+    }
 }
@@ -2,12 +2,51 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 class SemVerTest {
 
+    @Test
+    void testCompareTo() {
+
+        // -- See https://semver.org/#spec-item-11
+        final List<String> ordered =
+                List.of(
+                        "1.0.0-alpha",
+                        "1.0.0-alpha.1",
+                        "1.0.0-alpha.beta",
+                        "1.0.0-beta",
+                        "1.0.0-beta.2",
+                        "1.0.0-beta.11",
+                        "1.0.0-rc.1",
+                        "1.0.0",
+                        "v1.0.1",
+                        "1.1.0",
+                        "2.0.0-rc.1",
+                        "2.0.0");
+
+        final List<SemVer> shuffled = new ArrayList<>();
+        for (final String raw : ordered) {
+            shuffled.add(SemVer.parse(raw));
+        }
+        Collections.reverse(shuffled);
+        Collections.sort(shuffled);
+
+        for (int i = 0; i < ordered.size(); i++) {
+            assertEquals(ordered.get(i), shuffled.get(i).toString());
+        }
+
+        // -- build metadata and "v" prefix do not affect precedence
+        assertEquals(0, SemVer.parse("v1.2.3-rc.1+sha1").compareTo(SemVer.parse("1.2.3-rc.1")));
+    }
+
     @Test
     void testParse() {
 
@@ -53,4 +92,21 @@ void testParse() {
         assertEquals("alpha.t.1", got.preReleaseLabel());
         assertEquals("sha909d8g42f82", got.buildMetadata());
     }
+
+    @Test
+    void testParseRejectsInvalidIdentifiers() {
+        for (final String raw :
+                List.of(
+                        "1.0.0-rc.01",
+                        "1.0.0-00",
+                        "1.0.0-rc..1",
+                        "1.0.0-rc.",
+                        "1.0.0-.rc",
+                        "1.0.0+sha..1")) {
+            assertThrows(IllegalArgumentException.class, () -> SemVer.parse(raw), raw);
+        }
+
+        // -- leading zeros are fine in alphanumeric identifiers and build metadata
+        assertEquals("1.0.0-0rc.0+001", SemVer.parse("1.0.0-0rc.0+001").toString());
+    }
 }
@@ -0,0 +1,252 @@
+package io.github.wcarmon.git;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.internal.storage.file.ObjectDirectory;
+import org.eclipse.jgit.lib.BatchRefUpdate;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.lib.TagBuilder;
+import org.eclipse.jgit.lib.TreeFormatter;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.transport.ReceiveCommand;
+import org.eclipse.jgit.transport.URIish;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Builds bare, file-backed repositories shaped like real release repositories.
+ * {@link #populate} also works on in-memory repositories.
+ *
+ * <p>Objects are written into a single pack, rather than 500k loose object files.
+ * Tags are written with one {@link BatchRefUpdate}: atomic for packed refs (JGit writes
+ * packed-refs directly), non-atomic for loose refs (one file per tag).
+ */
+final class SyntheticRepoFixture {
+
+    private static final PersonIdent IDENT =
+            new PersonIdent("Fixture", "fixture@example.com", Instant.EPOCH, ZoneOffset.UTC);
+
+    private SyntheticRepoFixture() {}
+
+    /**
+     * @param gitDir       where to create the bare repository, must end with ".git"
+     * @param spec         shape of the repository
+     * @param origin       when present, configured as remote "origin"
+     * @return gitDir
+     */
+    static Path create(Path gitDir, Spec spec, @Nullable Path origin) {
+        requireNonNull(gitDir, "gitDir is required and null.");
+        requireNonNull(spec, "spec is required and null.");
+
+        try (final Repository repo = initBare(gitDir, origin)) {
+            populate(repo, spec);
+
+        } catch (Exception ex) {
+            throw new RuntimeException("Failed to create fixture: " + gitDir, ex);
+        }
+
+        if (spec.packedRefs() != Files.exists(gitDir.resolve(Constants.PACKED_REFS))) {
+            throw new IllegalStateException("Unexpected ref storage for fixture: " + spec);
+        }
+
+        return gitDir;
+    }
+
+    /**
+     * Writes commits & tags into an empty repository, file-backed or in-memory.
+     *
+     * @param repo empty, HEAD points to an unborn branch
+     * @param spec shape of the repository, packedRefs only applies to file-backed repos
+     */
+    static void populate(Repository repo, Spec spec) throws IOException {
+        requireNonNull(repo, "repo is required and null.");
+        requireNonNull(spec, "spec is required and null.");
+
+        final BatchRefUpdate batch = repo.getRefDatabase().newBatchUpdate();
+        batch.setAtomic(spec.packedRefs());
+
+        try (final ObjectInserter ins = newInserter(repo)) {
+            final ObjectId emptyTree = ins.insert(new TreeFormatter());
+            final ObjectId[] commits = new ObjectId[spec.commitCount()];
+
+            ObjectId parent = null;
+            for (int i = 0; i < commits.length; i++) {
+                final CommitBuilder cb = new CommitBuilder();
+                cb.setTreeId(emptyTree);
+                if (parent != null) {
+                    cb.setParentId(parent);
+                }
+                cb.setAuthor(IDENT);
+                cb.setCommitter(IDENT);
+                cb.setMessage("commit " + i + "\n");
+
+                parent = ins.insert(cb);
+                commits[i] = parent;
+            }
+
+            for (int i = 0; i < spec.tagCount(); i++) {
+                final String name = tagName(i);
+                final ObjectId target = commits[i % commits.length];
+
+                final ObjectId id;
+                if (isAnnotated(i, spec.annotatedRatio())) {
+                    final TagBuilder tb = new TagBuilder();
+                    tb.setObjectId(target, Constants.OBJ_COMMIT);
+                    tb.setTag(name);
+                    tb.setTagger(IDENT);
+                    tb.setMessage("release " + name + "\n");
+                    id = ins.insert(tb);
+
+                } else {
+                    id = target;
+                }
+
+                batch.addCommand(
+                        new ReceiveCommand(ObjectId.zeroId(), id, Constants.R_TAGS + name));
+            }
+
+            batch.addCommand(
+                    new ReceiveCommand(ObjectId.zeroId(), parent, repo.getFullBranch()));
+            ins.flush();
+        }
+
+        try (final RevWalk walk = new RevWalk(repo)) {
+            batch.execute(walk, NullProgressMonitor.INSTANCE);
+        }
+
+        for (final ReceiveCommand cmd : batch.getCommands()) {
+            if (cmd.getResult() != ReceiveCommand.Result.OK) {
+                throw new IllegalStateException(
+                        "Failed to create ref: " + cmd.getRefName() + " " + cmd.getResult());
+            }
+        }
+    }
+
+    /**
+     * Replaces whatever is at gitDir with an empty bare repository.
+     *
+     * @param gitDir       where to create the bare repository, must end with ".git"
+     * @param origin       when present, configured as remote "origin"
+     * @return gitDir
+     */
+    static Path recreateEmpty(Path gitDir, @Nullable Path origin) {
+        requireNonNull(gitDir, "gitDir is required and null.");
+
+        deleteRecursively(gitDir);
+
+        try {
+            initBare(gitDir, origin).close();
+            return gitDir;
+
+        } catch (Exception ex) {
+            throw new RuntimeException("Failed to create empty repo: " + gitDir, ex);
+        }
+    }
+
+    static void deleteRecursively(Path root) {
+        if (!Files.exists(root)) {
+            return;
+        }
+
+        try (final Stream<Path> paths = Files.walk(root)) {
+            for (final Path p : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to delete: " + root, ex);
+        }
+    }
+
+    /**
+     * @param i zero-based tag index
+     * @return true when the fixture stores tag i as an annotated tag object
+     */
+    static boolean isAnnotated(int i, double annotatedRatio) {
+        return Math.floor((i + 1) * annotatedRatio) > Math.floor(i * annotatedRatio);
+    }
+
+    /**
+     * @param i zero-based tag index
+     * @return unique, valid {@link SemVer} tag name
+     */
+    static String tagName(int i) {
+        return SemVer.builder()
+                .major(i / 10_000)
+                .minor((i / 100) % 100)
+                .patch(i % 100)
+                .includeVPrefix(true)
+                .build()
+                .toString();
+    }
+
+    private static Repository initBare(Path gitDir, @Nullable Path origin) throws Exception {
+        final Repository repo =
+                new FileRepositoryBuilder().setGitDir(gitDir.toFile()).setBare().build();
+        repo.create(true);
+
+        // -- default (3 MiB) rejects pushes of ~40k+ tags in one go
+        final StoredConfig config = repo.getConfig();
+        config.setLong("receive", null, "maxCommandBytes", Long.MAX_VALUE);
+
+        // -- JGit runs auto gc in the background after fetch, racing recreateEmpty & measurements
+        config.setInt("gc", null, "auto", 0);
+        config.setBoolean("gc", null, "autoDetach", false);
+        config.save();
+
+        if (origin != null) {
+            Git.wrap(repo)
+                    .remoteAdd()
+                    .setName("origin")
+                    .setUri(new URIish(origin.toAbsolutePath().toString()))
+                    .call();
+        }
+
+        return repo;
+    }
+
+    private static ObjectInserter newInserter(Repository repo) {
+        if (repo.getObjectDatabase() instanceof ObjectDirectory dir) {
+            return dir.newPackInserter();
+        }
+
+        return repo.newObjectInserter();
+    }
+
+    /**
+     * @param commitCount    linear history length, tags are spread round-robin across commits
+     * @param tagCount       number of tags, 1k to 500k is the interesting range
+     * @param annotatedRatio fraction of tags stored as annotated tag objects, [0, 1]
+     * @param packedRefs     true: refs in packed-refs, false: one loose file per tag
+     */
+    record Spec(int commitCount, int tagCount, double annotatedRatio, boolean packedRefs) {
+
+        Spec {
+            if (commitCount < 1) {
+                throw new IllegalArgumentException("commitCount must be >= 1");
+            }
+            if (tagCount < 0) {
+                throw new IllegalArgumentException("tagCount must be >= 0");
+            }
+            if (annotatedRatio < 0 || annotatedRatio > 1) {
+                throw new IllegalArgumentException("annotatedRatio must be in [0, 1]");
+            }
+        }
+    }
+}
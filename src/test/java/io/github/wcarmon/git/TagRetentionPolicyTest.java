@@ -0,0 +1,79 @@
+package io.github.wcarmon.git;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TagRetentionPolicyTest {
+
+    private static final List<String> TAGS =
+            List.of(
+                    "not-semver",
+                    "v1.0.0-rc.1",
+                    "v1.0.0-rc.2",
+                    "v1.0.0",
+                    "v1.0.1-rc.1",
+                    "v1.1.0-beta.1",
+                    "v1.1.0-rc.2",
+                    "v1.1.0-rc.10",
+                    "v1.1.0",
+                    "v2.0.0-rc.1",
+                    "v2.0.0-rc.2");
+
+    @Test
+    void testDefaultRetainsEverything() {
+        assertEquals(List.of(), TagRetentionPolicy.builder().build().selectDeletions(TAGS));
+    }
+
+    @Test
+    void testDropPreReleasesOlderThan() {
+        final TagRetentionPolicy policy =
+                TagRetentionPolicy.builder()
+                        .dropPreReleasesOlderThan(SemVer.parse("1.1.0"))
+                        .build();
+
+        assertEquals(
+                List.of(
+                        "v1.0.0-rc.1",
+                        "v1.0.0-rc.2",
+                        "v1.0.1-rc.1",
+                        "v1.1.0-beta.1",
+                        "v1.1.0-rc.10",
+                        "v1.1.0-rc.2"),
+                policy.selectDeletions(TAGS).stream().sorted().toList());
+    }
+
+    @Test
+    void testKeepLastPreReleasesPerMinor() {
+        final TagRetentionPolicy policy =
+                TagRetentionPolicy.builder().keepLastPreReleasesPerMinor(1).build();
+
+        // -- 1.0.x keeps 1.0.1-rc.1, 1.1.x keeps 1.1.0-rc.10, 2.0.x keeps 2.0.0-rc.2
+        assertEquals(
+                List.of("v1.0.0-rc.1", "v1.0.0-rc.2", "v1.1.0-beta.1", "v1.1.0-rc.2", "v2.0.0-rc.1"),
+                policy.selectDeletions(TAGS).stream().sorted().toList());
+    }
+
+    @Test
+    void testKeepNone() {
+        final TagRetentionPolicy policy =
+                TagRetentionPolicy.builder()
+                        .keepLastPreReleasesPerMinor(0)
+                        .dropPreReleasesOlderThan(SemVer.parse("1.1.0"))
+                        .build();
+
+        assertEquals(
+                List.of(
+                        "v1.0.0-rc.1",
+                        "v1.0.0-rc.2",
+                        "v1.0.1-rc.1",
+                        "v1.1.0-beta.1",
+                        "v1.1.0-rc.10",
+                        "v1.1.0-rc.2",
+                        "v2.0.0-rc.1",
+                        "v2.0.0-rc.2"),
+                policy.selectDeletions(TAGS).stream().sorted().toList());
+    }
+}